@@ -0,0 +1,19 @@
+-- Layout after 003: hash-partitioned on id, primary key only, fillfactor 90.
+DROP TABLE IF EXISTS bench_wallets CASCADE;
+
+CREATE TABLE bench_wallets (
+                         id UUID NOT NULL,
+                         balance NUMERIC(19, 2) NOT NULL CHECK (balance >= 0),
+                         PRIMARY KEY (id)
+) PARTITION BY HASH (id);
+
+DO $$
+BEGIN
+    FOR i IN 0..31 LOOP
+        EXECUTE format(
+            'CREATE TABLE bench_wallets_p%s PARTITION OF bench_wallets
+                 FOR VALUES WITH (MODULUS 32, REMAINDER %s) WITH (fillfactor = 90)',
+            lpad(i::text, 2, '0'), i);
+    END LOOP;
+END;
+$$;
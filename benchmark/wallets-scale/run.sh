@@ -0,0 +1,60 @@
+#!/usr/bin/env bash
+# Compares three layouts of the wallets table at several data sizes:
+#   single       - the original table with the balance index and default fillfactor,
+#   single-tuned - the same table without the balance index and with fillfactor 90,
+#   partitioned  - hash-partitioned on id with fillfactor 90.
+# For every layout and size it loads the data, runs the deposit UPDATE with pgbench and reports
+# latency, HOT update ratio, autovacuum activity during the run and the time of a manual VACUUM.
+#
+# Autovacuum cost is reported as worker-seconds (pg_stat_progress_vacuum is sampled once a second)
+# and as pages read/written by autovacuum workers (pg_stat_io, PostgreSQL 16+). A short run may
+# not trigger autovacuum at all, hence the long default DURATION.
+#
+# Connection is taken from the usual libpq variables, e.g. for docker-compose:
+#   PGHOST=localhost PGPORT=54320 PGUSER=user PGPASSWORD=password PGDATABASE=walletdb ./run.sh
+set -euo pipefail
+
+SCALES=${SCALES:-"1000000 10000000 100000000"}
+LAYOUTS=${LAYOUTS:-"single single-tuned partitioned"}
+DURATION=${DURATION:-900}
+CLIENTS=${CLIENTS:-16}
+THREADS=${THREADS:-4}
+DIR=$(cd "$(dirname "$0")" && pwd)
+PSQL=(psql -X -q -v ON_ERROR_STOP=1)
+
+sample_autovacuum() {
+    while :; do
+        psql -X -At -c "SELECT count(*) FROM pg_stat_progress_vacuum p
+                        JOIN pg_class c ON c.oid = p.relid
+                        WHERE c.relname LIKE 'bench\_wallets%'" || echo 0
+        sleep 1
+    done
+}
+
+for wallets in $SCALES; do
+    for layout in $LAYOUTS; do
+        echo "== $layout, $wallets wallets"
+        "${PSQL[@]}" -f "$DIR/$layout.sql"
+        "${PSQL[@]}" -c "INSERT INTO bench_wallets (id, balance)
+                         SELECT md5(i::text)::uuid, 1000 FROM generate_series(1, $wallets) i"
+        "${PSQL[@]}" -c "VACUUM ANALYZE bench_wallets"
+        "${PSQL[@]}" -c "SELECT pg_stat_reset(), pg_stat_reset_shared('io')" > /dev/null
+
+        samples=$(mktemp)
+        sample_autovacuum > "$samples" &
+        sampler=$!
+        pgbench -n -c "$CLIENTS" -j "$THREADS" -T "$DURATION" -D wallets="$wallets" \
+                -f "$DIR/update.sql" | grep -E "tps|latency"
+        kill "$sampler"
+        wait "$sampler" 2> /dev/null || true
+        echo "autovacuum worker-seconds: $(awk '{ s += $1 } END { print s + 0 }' "$samples")"
+        rm -f "$samples"
+
+        "${PSQL[@]}" -v layout="$layout" -v wallets="$wallets" -f "$DIR/stats.sql"
+        start=$(date +%s.%N)
+        "${PSQL[@]}" -c "VACUUM bench_wallets"
+        echo "manual vacuum: $(echo "$(date +%s.%N) - $start" | bc) s"
+    done
+done
+
+"${PSQL[@]}" -c "DROP TABLE IF EXISTS bench_wallets CASCADE"
@@ -0,0 +1,7 @@
+-- Single table after 002: primary key only, fillfactor 90, no partitioning.
+DROP TABLE IF EXISTS bench_wallets CASCADE;
+
+CREATE TABLE bench_wallets (
+                         id UUID PRIMARY KEY,
+                         balance NUMERIC(19, 2) NOT NULL CHECK (balance >= 0)
+) WITH (fillfactor = 90);
@@ -0,0 +1,9 @@
+-- Layout before 002: one table, balance index, default fillfactor.
+DROP TABLE IF EXISTS bench_wallets CASCADE;
+
+CREATE TABLE bench_wallets (
+                         id UUID PRIMARY KEY,
+                         balance NUMERIC(19, 2) NOT NULL CHECK (balance >= 0)
+);
+
+CREATE INDEX idx_bench_wallets_balance ON bench_wallets(balance);
@@ -0,0 +1,18 @@
+SELECT :'layout' AS layout,
+       :wallets AS wallets,
+       sum(n_tup_upd) AS updates,
+       round(100.0 * sum(n_tup_hot_upd) / nullif(sum(n_tup_upd), 0), 1) AS hot_pct,
+       sum(n_dead_tup) AS dead_tuples,
+       sum(autovacuum_count) AS autovacuums,
+       pg_size_pretty(sum(pg_total_relation_size(relid))) AS total_size
+FROM pg_stat_user_tables
+WHERE relname = 'bench_wallets' OR relname LIKE 'bench\_wallets\_p%';
+
+-- Pages touched by autovacuum workers since the reset before the run (8 kB each).
+SELECT :'layout' AS layout,
+       :wallets AS wallets,
+       sum(reads) AS autovacuum_pages_read,
+       sum(writes) AS autovacuum_pages_written,
+       sum(hits) AS autovacuum_pages_hit
+FROM pg_stat_io
+WHERE backend_type = 'autovacuum worker';
@@ -0,0 +1,3 @@
+-- pgbench transaction: the same single-row deposit the service issues.
+\set i random(1, :wallets)
+UPDATE bench_wallets SET balance = balance + 1 WHERE id = md5(:i::text)::uuid;
@@ -0,0 +1,15 @@
+package org.example.wallet.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class WalletStreamAck {
+    private String correlationId;
+    private int status;
+    private String error;
+    private String message;
+}
@@ -0,0 +1,16 @@
+package org.example.wallet.DTO;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class WalletStreamRequest {
+    @NotBlank(message = "Correlation ID cannot be blank")
+    private String correlationId;
+
+    @Valid
+    @JsonUnwrapped
+    private WalletOperationRequest operation = new WalletOperationRequest();
+}
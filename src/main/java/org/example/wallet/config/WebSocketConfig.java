@@ -0,0 +1,24 @@
+package org.example.wallet.config;
+
+import org.example.wallet.controller.WalletStreamHandler;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+    public static final String WALLET_STREAM_PATH = "/api/v1/wallet/stream";
+
+    private final WalletStreamHandler walletStreamHandler;
+
+    public WebSocketConfig(WalletStreamHandler walletStreamHandler) {
+        this.walletStreamHandler = walletStreamHandler;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(walletStreamHandler, WALLET_STREAM_PATH);
+    }
+}
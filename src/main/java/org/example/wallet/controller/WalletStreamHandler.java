@@ -0,0 +1,238 @@
+package org.example.wallet.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.tomcat.websocket.WsSession;
+import org.example.wallet.DTO.WalletStreamAck;
+import org.example.wallet.DTO.WalletStreamRequest;
+import org.example.wallet.exception.InsufficientFundsException;
+import org.example.wallet.exception.WalletNotFoundException;
+import org.example.wallet.service.WalletService;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Long-lived channel for producers that push a continuous stream of operations.
+ * Every text frame is a {@link WalletStreamRequest}; frames may be pipelined without waiting
+ * for acknowledgements, which are sent back asynchronously and matched by correlation ID.
+ * Once {@code wallet.stream.max-in-flight} operations are pending on a session, reading from
+ * that connection is suspended until one of them completes, so a fast producer is throttled
+ * by TCP flow control; no container thread is held while the session waits.
+ * Acknowledgements may arrive out of order; operations on the same wallet that must be
+ * applied in sequence should not be pipelined.
+ */
+@Component
+@Slf4j
+public class WalletStreamHandler extends TextWebSocketHandler implements DisposableBean {
+    private static final String STATE_ATTRIBUTE = "walletStream.state";
+
+    private final WalletService walletService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ThreadPoolTaskExecutor executor;
+    private final AtomicInteger sessions = new AtomicInteger();
+    private final int maxSessions;
+    private final int maxInFlight;
+    private final int sendTimeLimit;
+    private final int sendBufferSizeLimit;
+
+    public WalletStreamHandler(WalletService walletService,
+                               ObjectMapper objectMapper,
+                               Validator validator,
+                               @Value("${wallet.stream.max-sessions:64}") int maxSessions,
+                               @Value("${wallet.stream.max-in-flight:256}") int maxInFlight,
+                               @Value("${wallet.stream.worker-threads:32}") int workerThreads,
+                               @Value("${wallet.stream.queue-capacity:4096}") int queueCapacity,
+                               @Value("${wallet.stream.shutdown-timeout:30}") int shutdownTimeout,
+                               @Value("${wallet.stream.send-time-limit:10000}") int sendTimeLimit,
+                               @Value("${wallet.stream.send-buffer-size-limit:524288}") int sendBufferSizeLimit) {
+        this.walletService = walletService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.maxSessions = maxSessions;
+        this.maxInFlight = maxInFlight;
+        this.sendTimeLimit = sendTimeLimit;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+
+        // Not exposed as a bean, so Spring Boot still creates its default applicationTaskExecutor.
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("wallet-stream-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(shutdownTimeout);
+        executor.initialize();
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws IOException {
+        if (sessions.incrementAndGet() > maxSessions) {
+            sessions.decrementAndGet();
+            log.warn("Wallet stream session {} rejected: {} sessions already open", session.getId(), maxSessions);
+            session.close(CloseStatus.SERVICE_OVERLOAD);
+            return;
+        }
+        session.getAttributes().put(STATE_ATTRIBUTE, new SessionState(session, maxInFlight,
+                new ConcurrentWebSocketSessionDecorator(session, sendTimeLimit, sendBufferSizeLimit)));
+        log.info("Wallet stream session {} opened", session.getId());
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws IOException {
+        SessionState state = (SessionState) session.getAttributes().get(STATE_ATTRIBUTE);
+        if (state == null) {
+            return;
+        }
+        if (!state.start()) {
+            log.warn("Wallet stream session {} exceeded {} operations in flight", session.getId(), maxInFlight);
+            session.close(CloseStatus.POLICY_VIOLATION.withReason("Too many operations in flight"));
+            return;
+        }
+
+        WalletStreamRequest request;
+        try {
+            request = objectMapper.readValue(message.getPayload(), WalletStreamRequest.class);
+        } catch (JsonProcessingException ex) {
+            log.warn("Malformed stream frame: {}", ex.getOriginalMessage());
+            complete(state, error(correlationId(message.getPayload()), HttpStatus.BAD_REQUEST,
+                    "Malformed JSON frame. Please check the frame format."));
+            return;
+        }
+
+        Set<ConstraintViolation<WalletStreamRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String errors = violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .collect(Collectors.joining(", "));
+            log.warn("Validation failed: {}", errors);
+            complete(state, error(request.getCorrelationId(), HttpStatus.BAD_REQUEST,
+                    "Validation failed: " + errors));
+            return;
+        }
+
+        try {
+            executor.execute(() -> complete(state, apply(request)));
+        } catch (TaskRejectedException ex) {
+            log.warn("Stream executor rejected operation {}", request.getCorrelationId());
+            complete(state, error(request.getCorrelationId(), HttpStatus.SERVICE_UNAVAILABLE,
+                    "Server is overloaded, please retry later."));
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        if (session.getAttributes().remove(STATE_ATTRIBUTE) != null) {
+            sessions.decrementAndGet();
+            log.info("Wallet stream session {} closed: {}", session.getId(), status);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private WalletStreamAck apply(WalletStreamRequest request) {
+        String correlationId = request.getCorrelationId();
+        try {
+            walletService.performOperation(request.getOperation());
+            return new WalletStreamAck(correlationId, HttpStatus.OK.value(), HttpStatus.OK.getReasonPhrase(), null);
+        } catch (WalletNotFoundException ex) {
+            log.warn("Wallet not found: {}", ex.getMessage());
+            return error(correlationId, HttpStatus.NOT_FOUND, ex.getMessage());
+        } catch (InsufficientFundsException ex) {
+            log.warn("Insufficient funds: {}", ex.getMessage());
+            return error(correlationId, HttpStatus.BAD_REQUEST, ex.getMessage());
+        } catch (Exception ex) {
+            log.error("An unexpected error occurred: ", ex);
+            return error(correlationId, HttpStatus.INTERNAL_SERVER_ERROR,
+                    "An unexpected internal server error occurred.");
+        }
+    }
+
+    private void complete(SessionState state, WalletStreamAck ack) {
+        try {
+            state.sender.sendMessage(new TextMessage(objectMapper.writeValueAsString(ack)));
+        } catch (IOException | IllegalStateException | SessionLimitExceededException ex) {
+            log.warn("Could not acknowledge operation {} on session {}: {}",
+                    ack.getCorrelationId(), state.sender.getId(), ex.getMessage());
+        } finally {
+            state.finish();
+        }
+    }
+
+    /**
+     * Recovers the correlation ID of a frame that could not be bound, if the frame is JSON at all.
+     */
+    private String correlationId(String payload) {
+        try {
+            JsonNode correlationId = objectMapper.readTree(payload).path("correlationId");
+            return correlationId.isTextual() ? correlationId.asText() : null;
+        } catch (JsonProcessingException ex) {
+            return null;
+        }
+    }
+
+    private static WalletStreamAck error(String correlationId, HttpStatus status, String message) {
+        return new WalletStreamAck(correlationId, status.value(), status.getReasonPhrase(), message);
+    }
+
+    /**
+     * Counts operations in flight on one session and suspends reading while the limit is reached.
+     * Without a Tomcat session reads cannot be suspended, and a frame over the limit closes the session.
+     */
+    private static final class SessionState {
+        private final WsSession tomcatSession;
+        private final int maxInFlight;
+        private final WebSocketSession sender;
+        private int inFlight;
+        private boolean suspended;
+
+        SessionState(WebSocketSession session, int maxInFlight, WebSocketSession sender) {
+            this.tomcatSession = session instanceof NativeWebSocketSession nativeSession
+                    ? nativeSession.getNativeSession(WsSession.class) : null;
+            this.maxInFlight = maxInFlight;
+            this.sender = sender;
+        }
+
+        synchronized boolean start() {
+            if (inFlight >= maxInFlight) {
+                return false;
+            }
+            if (++inFlight == maxInFlight && tomcatSession != null) {
+                tomcatSession.suspend();
+                suspended = true;
+            }
+            return true;
+        }
+
+        synchronized void finish() {
+            inFlight--;
+            if (suspended) {
+                suspended = false;
+                tomcatSession.resume();
+            }
+        }
+    }
+}
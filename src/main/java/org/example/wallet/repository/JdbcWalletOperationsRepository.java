@@ -0,0 +1,71 @@
+package org.example.wallet.repository;
+
+import org.postgresql.PGStatement;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Runs the hot operations as single-statement JDBC calls, bypassing the Hibernate session,
+ * persistence context flush/clear and JPQL translation. The SQL strings are constant and each
+ * statement is marked for server-side preparation on first use, so the PostgreSQL driver keeps
+ * them prepared per connection; statements issued by Hibernate keep the driver defaults.
+ * Statements join the surrounding {@code @Transactional} through the JPA transaction manager.
+ */
+@Repository
+@ConditionalOnProperty(name = "wallet.repository.type", havingValue = "jdbc")
+public class JdbcWalletOperationsRepository implements WalletOperationsRepository {
+    private static final String DEPOSIT_SQL =
+            "UPDATE wallets SET balance = balance + ? WHERE id = ?";
+    private static final String WITHDRAW_SQL =
+            "UPDATE wallets SET balance = balance - ? WHERE id = ? AND balance >= ?";
+    private static final String BALANCE_SQL =
+            "SELECT balance FROM wallets WHERE id = ?";
+    private static final String EXISTS_SQL =
+            "SELECT EXISTS (SELECT 1 FROM wallets WHERE id = ?)";
+    private static final int PREPARE_THRESHOLD = 1;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcWalletOperationsRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int depositAmount(UUID walletId, BigDecimal amount) {
+        return jdbcTemplate.update(prepared(DEPOSIT_SQL, amount, walletId));
+    }
+
+    @Override
+    public int withdrawAmount(UUID walletId, BigDecimal amount) {
+        return jdbcTemplate.update(prepared(WITHDRAW_SQL, amount, walletId, amount));
+    }
+
+    @Override
+    public Optional<BigDecimal> findBalanceById(UUID walletId) {
+        return jdbcTemplate.query(prepared(BALANCE_SQL, walletId),
+                rs -> rs.next() ? Optional.of(rs.getBigDecimal(1)) : Optional.empty());
+    }
+
+    @Override
+    public boolean existsById(UUID walletId) {
+        return Boolean.TRUE.equals(jdbcTemplate.query(prepared(EXISTS_SQL, walletId),
+                rs -> rs.next() && rs.getBoolean(1)));
+    }
+
+    private static PreparedStatementCreator prepared(String sql, Object... args) {
+        return connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.unwrap(PGStatement.class).setPrepareThreshold(PREPARE_THRESHOLD);
+            new ArgumentPreparedStatementSetter(args).setValues(statement);
+            return statement;
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.wallet.repository;
+
+import org.example.wallet.entity.Wallet;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@ConditionalOnProperty(name = "wallet.repository.type", havingValue = "jpa", matchIfMissing = true)
+public class JpaWalletOperationsRepository implements WalletOperationsRepository {
+    private final WalletRepository walletRepository;
+
+    public JpaWalletOperationsRepository(WalletRepository walletRepository) {
+        this.walletRepository = walletRepository;
+    }
+
+    @Override
+    public int depositAmount(UUID walletId, BigDecimal amount) {
+        return walletRepository.depositAmount(walletId, amount);
+    }
+
+    @Override
+    public int withdrawAmount(UUID walletId, BigDecimal amount) {
+        return walletRepository.withdrawAmount(walletId, amount);
+    }
+
+    @Override
+    public Optional<BigDecimal> findBalanceById(UUID walletId) {
+        return walletRepository.findById(walletId).map(Wallet::getBalance);
+    }
+
+    @Override
+    public boolean existsById(UUID walletId) {
+        return walletRepository.existsById(walletId);
+    }
+}
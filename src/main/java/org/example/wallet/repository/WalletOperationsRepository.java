@@ -0,0 +1,21 @@
+package org.example.wallet.repository;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Hot-path balance operations used by {@link org.example.wallet.service.WalletService}.
+ * The implementation is selected with {@code wallet.repository.type}: {@code jpa} (default)
+ * goes through {@link WalletRepository}, {@code jdbc} issues plain prepared statements.
+ */
+public interface WalletOperationsRepository {
+
+    int depositAmount(UUID walletId, BigDecimal amount);
+
+    int withdrawAmount(UUID walletId, BigDecimal amount);
+
+    Optional<BigDecimal> findBalanceById(UUID walletId);
+
+    boolean existsById(UUID walletId);
+}
@@ -7,6 +7,7 @@ import org.example.wallet.DTO.WalletOperationRequest;
 import org.example.wallet.entity.Wallet;
 import org.example.wallet.exception.InsufficientFundsException;
 import org.example.wallet.exception.WalletNotFoundException;
+import org.example.wallet.repository.WalletOperationsRepository;
 import org.example.wallet.repository.WalletRepository;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.dao.TransientDataAccessException;
@@ -23,22 +24,20 @@ import java.util.UUID;
 @Slf4j
 public class WalletService {
     private final WalletRepository walletRepository;
+    private final WalletOperationsRepository walletOperationsRepository;
     public static final String WALLET_CACHE_NAME = "walletBalanceCache";
 
-    public WalletService(WalletRepository walletRepository) {
+    public WalletService(WalletRepository walletRepository, WalletOperationsRepository walletOperationsRepository) {
         this.walletRepository = walletRepository;
+        this.walletOperationsRepository = walletOperationsRepository;
     }
 
     @Cacheable(value = WALLET_CACHE_NAME, key = "#walletId")
     @Transactional(readOnly = true)
     public BigDecimal getBalance(UUID walletId) {
         log.info("Getting balance for wallet ID: {}", walletId);
-        if (!walletRepository.existsById(walletId)) {
-            throw new WalletNotFoundException("Wallet not found with id: " + walletId);
-        }
-        Wallet wallet = walletRepository.findById(walletId)
+        return walletOperationsRepository.findBalanceById(walletId)
                 .orElseThrow(() -> new WalletNotFoundException("Wallet not found with id: " + walletId));
-        return wallet.getBalance();
     }
 
     @CacheEvict(value = WALLET_CACHE_NAME, key = "#request.walletId")
@@ -58,10 +57,6 @@ public class WalletService {
         OperationType operationType = request.getOperationType();
         log.info("Performing {} operation for wallet ID: {} with amount: {}", operationType, walletId, amount);
 
-        if (!walletRepository.existsById(walletId)) {
-            throw new WalletNotFoundException("Wallet not found with id: " + walletId);
-        }
-
         int rowsAffected;
 
         switch (operationType) {
@@ -69,10 +64,9 @@ public class WalletService {
                 if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
                     throw new IllegalArgumentException("Deposit amount must be positive.");
                 }
-                rowsAffected = walletRepository.depositAmount(walletId, amount);
+                rowsAffected = walletOperationsRepository.depositAmount(walletId, amount);
                 if (rowsAffected == 0) {
-                    log.error("Deposit failed unexpectedly for existing wallet {}", walletId);
-                    throw new RuntimeException("Deposit failed unexpectedly for wallet " + walletId);
+                    throw new WalletNotFoundException("Wallet not found with id: " + walletId);
                 }
                 log.info("Deposit operation attempted for wallet {}", walletId);
                 break;
@@ -80,9 +74,12 @@ public class WalletService {
                 if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
                     throw new IllegalArgumentException("Withdrawal amount must be positive.");
                 }
-                rowsAffected = walletRepository.withdrawAmount(walletId, amount);
+                rowsAffected = walletOperationsRepository.withdrawAmount(walletId, amount);
                 if (rowsAffected == 0) {
-                    log.warn("Insufficient funds for withdrawal from wallet {} or wallet disappeared.", walletId);
+                    if (!walletOperationsRepository.existsById(walletId)) {
+                        throw new WalletNotFoundException("Wallet not found with id: " + walletId);
+                    }
+                    log.warn("Insufficient funds for withdrawal from wallet {}.", walletId);
                     throw new InsufficientFundsException(
                             "Insufficient funds in wallet " + walletId + " for requested amount " + amount
                     );
@@ -0,0 +1,8 @@
+
+-- All application queries go through the primary key; the balance index only
+-- served ad-hoc analytics and prevented HOT updates on every balance change.
+DROP INDEX IF EXISTS idx_wallets_balance;
+
+-- Applies only to pages written from now on: existing heap pages stay full until the
+-- table is rewritten (VACUUM FULL, or pg_repack without a long exclusive lock).
+ALTER TABLE wallets SET (fillfactor = 90);
@@ -0,0 +1,125 @@
+--liquibase formatted sql
+
+-- Online migration of wallets to a hash-partitioned table. See README for the full runbook.
+--
+-- Context "partitioned": creates wallets_partitioned, mirrors every write on wallets into it
+-- with a trigger and creates backfill_wallets_partitioned(). The backfill itself is run from psql
+-- outside Liquibase, since it can take hours and would hold the changelog lock meanwhile.
+--
+-- Context "partitioned-swap": verifies the copy without blocking writes, refusing to continue
+-- if row counts or balance totals differ, then swaps the tables under a short exclusive lock.
+-- The old table is kept as wallets_legacy until it is dropped manually.
+
+--changeset wallet:003-create-wallets-partitioned context:partitioned splitStatements:false
+CREATE TABLE wallets_partitioned (
+                         id UUID NOT NULL,
+                         balance NUMERIC(19, 2) NOT NULL CHECK (balance >= 0),
+                         CONSTRAINT wallets_partitioned_pkey PRIMARY KEY (id)
+) PARTITION BY HASH (id);
+
+DO $$
+BEGIN
+    FOR i IN 0..31 LOOP
+        EXECUTE format(
+            'CREATE TABLE wallets_p%s PARTITION OF wallets_partitioned
+                 FOR VALUES WITH (MODULUS 32, REMAINDER %s) WITH (fillfactor = 90)',
+            lpad(i::text, 2, '0'), i);
+    END LOOP;
+END;
+$$;
+
+--changeset wallet:003-mirror-wallets-writes context:partitioned splitStatements:false
+CREATE FUNCTION wallets_mirror_write() RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        DELETE FROM wallets_partitioned WHERE id = OLD.id;
+        RETURN OLD;
+    END IF;
+    INSERT INTO wallets_partitioned (id, balance) VALUES (NEW.id, NEW.balance)
+    ON CONFLICT (id) DO UPDATE SET balance = EXCLUDED.balance;
+    RETURN NEW;
+END;
+$$;
+
+CREATE TRIGGER wallets_mirror_write
+    AFTER INSERT OR UPDATE OR DELETE ON wallets
+    FOR EACH ROW EXECUTE FUNCTION wallets_mirror_write();
+
+--changeset wallet:003-create-backfill-procedure context:partitioned splitStatements:false
+-- Copies existing rows in primary key order, committing after every batch so that
+-- locks stay short and autovacuum can keep up. Rows already written by the trigger win.
+-- Not called here: run "CALL backfill_wallets_partitioned(10000);" from psql in autocommit mode.
+-- It can be interrupted and called again; rows copied earlier are skipped.
+CREATE PROCEDURE backfill_wallets_partitioned(batch_size INT)
+LANGUAGE plpgsql AS $$
+DECLARE
+    last_id UUID := '00000000-0000-0000-0000-000000000000';
+    batch_last_id UUID;
+BEGIN
+    -- The batches below start strictly after the nil UUID, so copy it separately.
+    INSERT INTO wallets_partitioned (id, balance)
+    SELECT id, balance FROM wallets WHERE id = last_id
+    ON CONFLICT (id) DO NOTHING;
+
+    LOOP
+        SELECT max(id) INTO batch_last_id
+        FROM (SELECT id FROM wallets
+              WHERE id > last_id
+              ORDER BY id
+              LIMIT batch_size) batch;
+        EXIT WHEN batch_last_id IS NULL;
+
+        INSERT INTO wallets_partitioned (id, balance)
+        SELECT id, balance FROM wallets
+        WHERE id > last_id AND id <= batch_last_id
+        ON CONFLICT (id) DO NOTHING;
+
+        last_id := batch_last_id;
+        COMMIT;
+    END LOOP;
+END;
+$$;
+
+--changeset wallet:003-verify-wallets-partitioned context:partitioned-swap splitStatements:false
+-- Runs without a table lock: the trigger keeps both tables in step for every committed write,
+-- so one statement compares them on a single snapshot.
+--
+-- A wallet deleted after a backfill batch took its snapshot, but before that batch inserted,
+-- is copied back although the trigger already removed it. Drop such rows before comparing.
+DELETE FROM wallets_partitioned p
+WHERE NOT EXISTS (SELECT 1 FROM wallets w WHERE w.id = p.id);
+
+DO $$
+DECLARE
+    legacy_count BIGINT;
+    legacy_total NUMERIC;
+    partitioned_count BIGINT;
+    partitioned_total NUMERIC;
+BEGIN
+    SELECT l.row_count, l.total, p.row_count, p.total
+    INTO legacy_count, legacy_total, partitioned_count, partitioned_total
+    FROM (SELECT count(*) AS row_count, coalesce(sum(balance), 0) AS total FROM wallets) l,
+         (SELECT count(*) AS row_count, coalesce(sum(balance), 0) AS total FROM wallets_partitioned) p;
+    IF legacy_count <> partitioned_count OR legacy_total <> partitioned_total THEN
+        RAISE EXCEPTION 'wallets_partitioned does not match wallets: % rows / % total vs % rows / % total',
+            partitioned_count, partitioned_total, legacy_count, legacy_total;
+    END IF;
+END;
+$$;
+
+--changeset wallet:003-swap-wallets-partitioned context:partitioned-swap splitStatements:false
+-- Gives up instead of queueing behind a long transaction and stalling every write behind it.
+SET LOCAL lock_timeout = '5s';
+LOCK TABLE wallets IN ACCESS EXCLUSIVE MODE;
+
+DROP TRIGGER wallets_mirror_write ON wallets;
+DROP FUNCTION wallets_mirror_write();
+DROP PROCEDURE backfill_wallets_partitioned(INT);
+
+ALTER TABLE wallets RENAME TO wallets_legacy;
+ALTER TABLE wallets_legacy RENAME CONSTRAINT wallets_pkey TO wallets_legacy_pkey;
+ALTER TABLE wallets_partitioned RENAME TO wallets;
+ALTER TABLE wallets RENAME CONSTRAINT wallets_partitioned_pkey TO wallets_pkey;
+
+ANALYZE wallets;
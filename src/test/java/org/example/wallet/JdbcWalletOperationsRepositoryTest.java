@@ -0,0 +1,163 @@
+package org.example.wallet;
+import org.example.wallet.DTO.WalletOperationRequest;
+import org.example.wallet.entity.Wallet;
+import org.example.wallet.enums.OperationType;
+import org.example.wallet.exception.InsufficientFundsException;
+import org.example.wallet.exception.WalletNotFoundException;
+import org.example.wallet.repository.JdbcWalletOperationsRepository;
+import org.example.wallet.repository.JpaWalletOperationsRepository;
+import org.example.wallet.repository.WalletOperationsRepository;
+import org.example.wallet.repository.WalletRepository;
+import org.example.wallet.service.WalletService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "wallet.repository.type=jdbc")
+@ActiveProfiles("test")
+class JdbcWalletOperationsRepositoryTest {
+
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(
+            "postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.liquibase.enabled", () -> "true");
+    }
+
+    @Autowired
+    private WalletService walletService;
+
+    @Autowired
+    private WalletOperationsRepository walletOperationsRepository;
+
+    @Autowired
+    private WalletRepository walletRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Wallet testWallet;
+    private final BigDecimal initialBalance = new BigDecimal("100.50");
+
+    @BeforeAll
+    static void beforeAll() {
+        postgres.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        postgres.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        testWallet = new Wallet();
+        testWallet.setBalance(initialBalance);
+        testWallet = walletRepository.save(testWallet);
+    }
+
+    @Test
+    void jdbcImplementation_IsSelected() {
+        assertInstanceOf(JdbcWalletOperationsRepository.class, walletOperationsRepository);
+    }
+
+    @Test
+    void performOperation_DepositAndWithdraw_Success() {
+        walletService.performOperation(request(testWallet.getId(), OperationType.DEPOSIT, new BigDecimal("50.25")));
+        walletService.performOperation(request(testWallet.getId(), OperationType.WITHDRAW, new BigDecimal("30.00")));
+
+        assertEquals(0, new BigDecimal("120.75").compareTo(walletService.getBalance(testWallet.getId())));
+    }
+
+    @Test
+    void performOperation_Withdraw_InsufficientFunds() {
+        WalletOperationRequest request = request(testWallet.getId(), OperationType.WITHDRAW,
+                initialBalance.add(BigDecimal.ONE));
+
+        assertThrows(InsufficientFundsException.class, () -> walletService.performOperation(request));
+        assertEquals(0, initialBalance.compareTo(walletOperationsRepository.findBalanceById(testWallet.getId()).orElseThrow()));
+    }
+
+    @Test
+    void performOperation_WalletNotFound() {
+        UUID nonExistentId = UUID.randomUUID();
+
+        assertThrows(WalletNotFoundException.class,
+                () -> walletService.performOperation(request(nonExistentId, OperationType.DEPOSIT, BigDecimal.TEN)));
+        assertThrows(WalletNotFoundException.class,
+                () -> walletService.performOperation(request(nonExistentId, OperationType.WITHDRAW, BigDecimal.TEN)));
+        assertThrows(WalletNotFoundException.class, () -> walletService.getBalance(nonExistentId));
+    }
+
+    /**
+     * Compares CPU time and heap allocation per deposit+balance pair for both implementations.
+     * Run with {@code -Dbenchmark=true}; the figures are for the calling thread, which also runs the driver.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark_JdbcVersusJpa() {
+        int operations = Integer.getInteger("benchmark.operations", 20_000);
+        WalletOperationsRepository jpa = new JpaWalletOperationsRepository(walletRepository);
+        WalletOperationsRepository jdbc = new JdbcWalletOperationsRepository(jdbcTemplate);
+
+        run(jpa, operations / 10);
+        run(jdbc, operations / 10);
+        measure("JPA", jpa, operations);
+        measure("JDBC", jdbc, operations);
+    }
+
+    private void measure(String name, WalletOperationsRepository repository, int operations) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long cpuStart = threads.getCurrentThreadCpuTime();
+        long allocatedStart = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        run(repository, operations);
+        long elapsed = System.nanoTime() - start;
+        long cpu = threads.getCurrentThreadCpuTime() - cpuStart;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedStart;
+        System.out.printf("%s: %d ops, %.0f ops/s, %.1f us CPU/op, %d bytes allocated/op%n", name, operations,
+                operations / (elapsed / 1e9), cpu / 1e3 / operations, allocated / operations);
+    }
+
+    private void run(WalletOperationsRepository repository, int operations) {
+        for (int i = 0; i < operations; i++) {
+            transactionTemplate.executeWithoutResult(status -> {
+                repository.depositAmount(testWallet.getId(), BigDecimal.ONE);
+                repository.findBalanceById(testWallet.getId());
+            });
+        }
+    }
+
+    private static WalletOperationRequest request(UUID walletId, OperationType type, BigDecimal amount) {
+        WalletOperationRequest request = new WalletOperationRequest();
+        request.setWalletId(walletId);
+        request.setOperationType(type);
+        request.setAmount(amount);
+        return request;
+    }
+}
@@ -0,0 +1,137 @@
+package org.example.wallet;
+import liquibase.integration.spring.SpringLiquibase;
+import org.example.wallet.DTO.WalletOperationRequest;
+import org.example.wallet.entity.Wallet;
+import org.example.wallet.enums.OperationType;
+import org.example.wallet.exception.InsufficientFundsException;
+import org.example.wallet.service.WalletService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Seeds a legacy wallets table, creates the partitioned copy and backfills it the way the runbook
+ * does, then boots the application with the swap context so the tests see the swapped schema.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class WalletPartitionMigrationTest {
+
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(
+            "postgres:16-alpine");
+
+    private static final int SEEDED_WALLETS = 1000;
+    private static final BigDecimal SEEDED_TOTAL = new BigDecimal("625626.00");
+    private static final UUID ORPHAN_ID = UUID.randomUUID();
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.liquibase.enabled", () -> "true");
+        registry.add("spring.liquibase.contexts", () -> "default,partitioned,partitioned-swap");
+    }
+
+    @Autowired
+    private WalletService walletService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void beforeAll() throws Exception {
+        postgres.start();
+        DataSource dataSource = new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+        migrate(dataSource, "default");
+        jdbc.update("INSERT INTO wallets (id, balance) " +
+                "SELECT md5(i::text)::uuid, i * 1.25 FROM generate_series(1, ?) i", SEEDED_WALLETS);
+
+        migrate(dataSource, "default,partitioned");
+        jdbc.execute("CALL backfill_wallets_partitioned(100)");
+        // Written after the backfill, so only the mirror trigger carries it over.
+        jdbc.update("UPDATE wallets SET balance = balance + 1 WHERE id = md5('3')::uuid");
+        jdbc.update("DELETE FROM wallets_partitioned WHERE id = md5('1')::uuid");
+        assertThrows(Exception.class, () -> migrate(dataSource, "default,partitioned,partitioned-swap"),
+                "Swap must be refused when the copy is incomplete");
+        assertEquals("r", relkind(jdbc, "wallets"));
+
+        jdbc.update("INSERT INTO wallets_partitioned SELECT * FROM wallets WHERE id = md5('1')::uuid");
+        // Simulates a wallet deleted while the backfill was copying it.
+        jdbc.update("INSERT INTO wallets_partitioned (id, balance) VALUES (?, 5)", ORPHAN_ID);
+    }
+
+    @AfterAll
+    static void afterAll() {
+        postgres.stop();
+    }
+
+    @Test
+    void migration_PreservesEveryWallet() {
+        assertEquals("p", relkind(jdbcTemplate, "wallets"));
+        assertEquals(SEEDED_WALLETS, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM wallets_legacy l JOIN wallets w USING (id)", Integer.class));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM wallets_legacy l LEFT JOIN wallets w USING (id) " +
+                        "WHERE w.balance IS DISTINCT FROM l.balance", Integer.class));
+        assertEquals(0, SEEDED_TOTAL.compareTo(jdbcTemplate.queryForObject(
+                "SELECT sum(w.balance) FROM wallets w JOIN wallets_legacy l USING (id)", BigDecimal.class)));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM wallets WHERE id = ?", Integer.class, ORPHAN_ID));
+    }
+
+    @Test
+    void walletService_WorksOnPartitionedTable() {
+        UUID seededId = jdbcTemplate.queryForObject("SELECT md5('2')::uuid", UUID.class);
+        assertEquals(0, new BigDecimal("2.50").compareTo(walletService.getBalance(seededId)));
+
+        Wallet created = walletService.createWallet();
+        assertEquals(0, BigDecimal.ZERO.compareTo(walletService.getBalance(created.getId())));
+
+        walletService.performOperation(request(created.getId(), OperationType.DEPOSIT, BigDecimal.TEN));
+        walletService.performOperation(request(created.getId(), OperationType.WITHDRAW, new BigDecimal("2.50")));
+        assertEquals(0, new BigDecimal("7.50").compareTo(walletService.getBalance(created.getId())));
+
+        assertThrows(InsufficientFundsException.class,
+                () -> walletService.performOperation(request(created.getId(), OperationType.WITHDRAW, BigDecimal.TEN)));
+    }
+
+    private static void migrate(DataSource dataSource, String contexts) throws Exception {
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog("classpath:db/changelog/db.changelog-master.yaml");
+        liquibase.setContexts(contexts);
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+    }
+
+    private static String relkind(JdbcTemplate jdbc, String table) {
+        return jdbc.queryForObject("SELECT relkind::text FROM pg_class WHERE relname = ?", String.class, table);
+    }
+
+    private static WalletOperationRequest request(UUID walletId, OperationType type, BigDecimal amount) {
+        WalletOperationRequest request = new WalletOperationRequest();
+        request.setWalletId(walletId);
+        request.setOperationType(type);
+        request.setAmount(amount);
+        return request;
+    }
+}
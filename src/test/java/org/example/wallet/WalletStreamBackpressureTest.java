@@ -0,0 +1,123 @@
+package org.example.wallet;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.wallet.DTO.WalletStreamAck;
+import org.example.wallet.DTO.WalletStreamRequest;
+import org.example.wallet.config.WebSocketConfig;
+import org.example.wallet.entity.Wallet;
+import org.example.wallet.enums.OperationType;
+import org.example.wallet.repository.WalletRepository;
+import org.example.wallet.service.WalletService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "wallet.stream.max-in-flight=2")
+@ActiveProfiles("test")
+class WalletStreamBackpressureTest {
+
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(
+            "postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.liquibase.enabled", () -> "true");
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private WalletRepository walletRepository;
+
+    @SpyBean
+    private WalletService walletService;
+
+    @BeforeAll
+    static void beforeAll() {
+        postgres.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        postgres.stop();
+    }
+
+    @Test
+    void stream_SlowOperations_InFlightNeverExceedsLimit() throws Exception {
+        Wallet wallet = walletRepository.save(new Wallet());
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxObserved = new AtomicInteger();
+        doAnswer(invocation -> {
+            maxObserved.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(100);
+                return invocation.callRealMethod();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }).when(walletService).performOperation(any());
+
+        BlockingQueue<WalletStreamAck> acks = new LinkedBlockingQueue<>();
+        WebSocketSession session = new StandardWebSocketClient().execute(new TextWebSocketHandler() {
+            @Override
+            protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+                acks.add(objectMapper.readValue(message.getPayload(), WalletStreamAck.class));
+            }
+        }, "ws://localhost:" + port + WebSocketConfig.WALLET_STREAM_PATH).get(5, TimeUnit.SECONDS);
+
+        int operations = 20;
+        for (int i = 0; i < operations; i++) {
+            WalletStreamRequest request = new WalletStreamRequest();
+            request.setCorrelationId("op-" + i);
+            request.getOperation().setWalletId(wallet.getId());
+            request.getOperation().setOperationType(OperationType.DEPOSIT);
+            request.getOperation().setAmount(BigDecimal.ONE);
+            session.sendMessage(new TextMessage(objectMapper.writeValueAsString(request)));
+        }
+
+        Set<String> acknowledged = new HashSet<>();
+        for (int i = 0; i < operations; i++) {
+            WalletStreamAck ack = acks.poll(10, TimeUnit.SECONDS);
+            assertNotNull(ack, "No acknowledgement received");
+            assertEquals(200, ack.getStatus());
+            acknowledged.add(ack.getCorrelationId());
+        }
+        session.close();
+
+        assertEquals(operations, acknowledged.size());
+        assertEquals(2, maxObserved.get());
+        Wallet updatedWallet = walletRepository.findById(wallet.getId()).orElseThrow();
+        assertEquals(0, BigDecimal.valueOf(operations).compareTo(updatedWallet.getBalance()));
+    }
+}
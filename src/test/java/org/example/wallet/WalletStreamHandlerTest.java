@@ -0,0 +1,302 @@
+package org.example.wallet;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.wallet.DTO.WalletOperationRequest;
+import org.example.wallet.DTO.WalletStreamAck;
+import org.example.wallet.DTO.WalletStreamRequest;
+import org.example.wallet.config.WebSocketConfig;
+import org.example.wallet.entity.Wallet;
+import org.example.wallet.enums.OperationType;
+import org.example.wallet.repository.WalletRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class WalletStreamHandlerTest {
+
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(
+            "postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.liquibase.enabled", () -> "true");
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private WalletRepository walletRepository;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private final BlockingQueue<WalletStreamAck> acks = new LinkedBlockingQueue<>();
+    private volatile Semaphore window;
+    private WebSocketSession session;
+    private Wallet testWallet;
+    private final BigDecimal initialBalance = new BigDecimal("100.50");
+
+    @BeforeAll
+    static void beforeAll() {
+        postgres.start();
+    }
+
+    @AfterAll
+    static void afterAll() {
+        postgres.stop();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        testWallet = new Wallet();
+        testWallet.setBalance(initialBalance);
+        testWallet = walletRepository.save(testWallet);
+
+        session = new StandardWebSocketClient().execute(new TextWebSocketHandler() {
+            @Override
+            protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+                acks.add(objectMapper.readValue(message.getPayload(), WalletStreamAck.class));
+                Semaphore currentWindow = window;
+                if (currentWindow != null) {
+                    currentWindow.release();
+                }
+            }
+        }, "ws://localhost:" + port + WebSocketConfig.WALLET_STREAM_PATH).get(5, TimeUnit.SECONDS);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        session.close();
+    }
+
+    @Test
+    void stream_PipelinedDeposits_AllAcknowledged() throws Exception {
+        int operations = 50;
+        for (int i = 0; i < operations; i++) {
+            send(frame("dep-" + i, testWallet.getId(), OperationType.DEPOSIT, BigDecimal.ONE));
+        }
+
+        Map<String, WalletStreamAck> received = new HashMap<>();
+        for (int i = 0; i < operations; i++) {
+            WalletStreamAck ack = nextAck();
+            received.put(ack.getCorrelationId(), ack);
+        }
+        assertEquals(operations, received.size());
+        received.values().forEach(ack -> assertEquals(200, ack.getStatus()));
+
+        Wallet updatedWallet = walletRepository.findById(testWallet.getId()).orElseThrow();
+        assertEquals(0, initialBalance.add(BigDecimal.valueOf(operations)).compareTo(updatedWallet.getBalance()));
+    }
+
+    @Test
+    void stream_Withdraw_InsufficientFunds() throws Exception {
+        send(frame("w-1", testWallet.getId(), OperationType.WITHDRAW, initialBalance.add(BigDecimal.ONE)));
+
+        WalletStreamAck ack = nextAck();
+        assertEquals("w-1", ack.getCorrelationId());
+        assertEquals(400, ack.getStatus());
+        assertTrue(ack.getMessage().contains("Insufficient funds"));
+
+        Wallet notUpdatedWallet = walletRepository.findById(testWallet.getId()).orElseThrow();
+        assertEquals(0, initialBalance.compareTo(notUpdatedWallet.getBalance()));
+    }
+
+    @Test
+    void stream_WalletNotFound() throws Exception {
+        UUID nonExistentId = UUID.randomUUID();
+        send(frame("nf-1", nonExistentId, OperationType.DEPOSIT, BigDecimal.TEN));
+
+        WalletStreamAck ack = nextAck();
+        assertEquals("nf-1", ack.getCorrelationId());
+        assertEquals(404, ack.getStatus());
+        assertTrue(ack.getMessage().contains("Wallet not found with id: " + nonExistentId));
+    }
+
+    @Test
+    void stream_InvalidAmount_Negative() throws Exception {
+        send(frame("neg-1", testWallet.getId(), OperationType.DEPOSIT, new BigDecimal("-100")));
+
+        WalletStreamAck ack = nextAck();
+        assertEquals("neg-1", ack.getCorrelationId());
+        assertEquals(400, ack.getStatus());
+        assertTrue(ack.getMessage().contains("Amount must be positive"));
+    }
+
+    @Test
+    void stream_MalformedFrame_SessionStaysOpen() throws Exception {
+        session.sendMessage(new TextMessage("{\"correlationId\":\"bad\", amount: 100 }"));
+
+        WalletStreamAck ack = nextAck();
+        assertEquals(400, ack.getStatus());
+        assertTrue(ack.getMessage().contains("Malformed JSON frame"));
+
+        send(frame("after-bad", testWallet.getId(), OperationType.DEPOSIT, BigDecimal.ONE));
+        assertEquals(200, nextAck().getStatus());
+    }
+
+    @Test
+    void stream_UnknownOperationType_KeepsCorrelationId() throws Exception {
+        String jsonFrame = String.format(
+                "{\"correlationId\":\"bad-type\",\"walletId\":\"%s\",\"operationType\":\"TRANSFER\",\"amount\":10}",
+                testWallet.getId());
+        session.sendMessage(new TextMessage(jsonFrame));
+
+        WalletStreamAck ack = nextAck();
+        assertEquals("bad-type", ack.getCorrelationId());
+        assertEquals(400, ack.getStatus());
+        assertTrue(ack.getMessage().contains("Malformed JSON frame"));
+    }
+
+    /**
+     * Compares the REST endpoint with the stream for the same number of deposits at the same
+     * concurrency: {@code benchmark.concurrency} REST client threads against a stream client that
+     * keeps that many frames unacknowledged. Deposits are spread over {@code benchmark.wallets}
+     * wallets so row-lock contention does not dominate. Both paths are warmed up before measuring.
+     * CPU time is summed over the server threads (Tomcat workers and the stream executor), so the
+     * test client is not counted. Run with {@code -Dbenchmark=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark_StreamVersusRest() throws Exception {
+        int operations = Integer.getInteger("benchmark.operations", 20_000);
+        int concurrency = Integer.getInteger("benchmark.concurrency", 16);
+        List<UUID> walletIds = new ArrayList<>();
+        for (int i = 0; i < Integer.getInteger("benchmark.wallets", 64); i++) {
+            walletIds.add(walletRepository.save(new Wallet()).getId());
+        }
+
+        runRest(walletIds, operations / 10, concurrency);
+        runStream(walletIds, operations / 10, concurrency);
+
+        long cpuStart = serverCpuTime();
+        long start = System.nanoTime();
+        runRest(walletIds, operations, concurrency);
+        report("REST", operations, System.nanoTime() - start, serverCpuTime() - cpuStart);
+
+        cpuStart = serverCpuTime();
+        start = System.nanoTime();
+        runStream(walletIds, operations, concurrency);
+        report("Stream", operations, System.nanoTime() - start, serverCpuTime() - cpuStart);
+    }
+
+    private void runRest(List<UUID> walletIds, int operations, int concurrency) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int t = 0; t < concurrency; t++) {
+                int first = t;
+                tasks.add(() -> {
+                    for (int i = first; i < operations; i += concurrency) {
+                        WalletOperationRequest request = new WalletOperationRequest();
+                        request.setWalletId(walletIds.get(i % walletIds.size()));
+                        request.setOperationType(OperationType.DEPOSIT);
+                        request.setAmount(BigDecimal.ONE);
+                        assertEquals(HttpStatus.OK,
+                                restTemplate.postForEntity("/api/v1/wallet", request, Void.class).getStatusCode());
+                    }
+                    return null;
+                });
+            }
+            for (Future<Void> result : clients.invokeAll(tasks)) {
+                result.get();
+            }
+        } finally {
+            clients.shutdown();
+        }
+    }
+
+    private void runStream(List<UUID> walletIds, int operations, int concurrency) throws Exception {
+        window = new Semaphore(concurrency);
+        try {
+            for (int i = 0; i < operations; i++) {
+                assertTrue(window.tryAcquire(10, TimeUnit.SECONDS), "No acknowledgement received");
+                send(frame(Integer.toString(i), walletIds.get(i % walletIds.size()), OperationType.DEPOSIT, BigDecimal.ONE));
+            }
+            for (int i = 0; i < operations; i++) {
+                assertEquals(200, nextAck().getStatus());
+            }
+        } finally {
+            window = null;
+        }
+    }
+
+    private static long serverCpuTime() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long total = 0;
+        for (ThreadInfo info : threads.getThreadInfo(threads.getAllThreadIds())) {
+            if (info != null && (info.getThreadName().startsWith("http-nio-")
+                    || info.getThreadName().startsWith("wallet-stream-"))) {
+                total += Math.max(0, threads.getThreadCpuTime(info.getThreadId()));
+            }
+        }
+        return total;
+    }
+
+    private static void report(String name, int operations, long elapsedNanos, long cpuNanos) {
+        System.out.printf("%s: %d ops, %.0f ops/s, %.1f us server CPU/op%n", name, operations,
+                operations / (elapsedNanos / 1e9), cpuNanos / 1e3 / operations);
+    }
+
+    private WalletStreamRequest frame(String correlationId, UUID walletId, OperationType type, BigDecimal amount) {
+        WalletStreamRequest request = new WalletStreamRequest();
+        request.setCorrelationId(correlationId);
+        request.getOperation().setWalletId(walletId);
+        request.getOperation().setOperationType(type);
+        request.getOperation().setAmount(amount);
+        return request;
+    }
+
+    private void send(WalletStreamRequest request) throws Exception {
+        session.sendMessage(new TextMessage(objectMapper.writeValueAsString(request)));
+    }
+
+    private WalletStreamAck nextAck() throws InterruptedException {
+        WalletStreamAck ack = acks.poll(10, TimeUnit.SECONDS);
+        assertNotNull(ack, "No acknowledgement received");
+        return ack;
+    }
+}